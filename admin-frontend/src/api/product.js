@@ -3,7 +3,7 @@ import request from '@/utils/request';
 // 获取商品列表
 export function getProductList(params) {
   return request({
-    url: '/product/list',
+    url: '/admin/product/list',
     method: 'get',
     params,
   });